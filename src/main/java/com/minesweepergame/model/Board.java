@@ -7,104 +7,71 @@ import com.minesweepergame.model.Cell;
  * Represents the Minesweeper game board and manages mine placement and uncovering logic.
  */
 public class Board {
-    private final int size;
-    private final int mineCount;
+    private static final Topology SQUARE = new SquareTopology();
+
+    private final int rows;
+    private final int cols;
+    private final BoardLayout layout;
     private final Cell[][] grid;
-    private boolean[][] visited;
+    // Row-major view of grid, indexed like the layout, plus an always-uncovered sentinel cell.
+    // The cells are the only record of which squares are uncovered.
+    private final Cell[] cells;
 
     /**
-     * Constructs a new Board with the given size and mine count.
+     * Constructs a new square Board with the given size and mine count.
      * @param size Board size (NxN)
      * @param mineCount Number of mines
      */
     public Board(int size, int mineCount) {
-        this.size = size;
-        this.mineCount = mineCount;
-        this.grid = new Cell[size][size];
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                grid[i][j] = new Cell();
-            }
-        }
-        placeMines();
-        calculateAdjacents();
+        this(size, size, mineCount, SQUARE);
     }
 
     /**
-     * Randomly places mines on the board.
-     */
-    private void placeMines() {
-        Random rand = new Random();
-        int placed = 0;
-        while (placed < mineCount) {
-            int r = rand.nextInt(size);
-            int c = rand.nextInt(size);
-            if (!grid[r][c].isMine()) {
-                grid[r][c].setMine(true);
-                placed++;
-            }
-        }
-    }
-
-    /**
-     * Calculates the number of adjacent mines for each cell.
+     * Constructs a new Board with the given dimensions, mine count and topology.
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param mineCount Number of mines
+     * @param topology Adjacency rules between cells
      */
-    private void calculateAdjacents() {
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                if (!grid[i][j].isMine()) {
-                    grid[i][j].setAdjacentMines(countAdjacentMines(i, j));
-                }
-            }
-        }
+    public Board(int rows, int cols, int mineCount, Topology topology) {
+        this(new BoardLayout(rows, cols, mineCount, topology, new Random()));
     }
 
     /**
-     * Counts adjacent mines for a given cell.
+     * Constructs a new Board whose mines are taken from the given layout.
+     * @param layout Mine layout to play on
      */
-    private int countAdjacentMines(int row, int col) {
-        int count = 0;
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                int r = row + dr, c = col + dc;
-                if (r >= 0 && r < size && c >= 0 && c < size && grid[r][c].isMine()) {
-                    count++;
-                }
+    public Board(BoardLayout layout) {
+        this.rows = layout.getRows();
+        this.cols = layout.getCols();
+        this.layout = layout;
+        this.grid = new Cell[rows][cols];
+        this.cells = new Cell[rows * cols + 1];
+        for (int i = 0; i < rows; i++) {
+            Cell[] row = grid[i];
+            for (int j = 0; j < cols; j++) {
+                Cell cell = new Cell(layout.isMine(i, j), layout.getAdjacentMines(i, j));
+                row[j] = cell;
+                cells[i * cols + j] = cell;
             }
         }
-        return count;
+        Cell sentinel = new Cell();
+        sentinel.uncover();
+        cells[rows * cols] = sentinel;
     }
 
     /**
-     * Uncovers a cell and recursively uncovers adjacent empty cells.
+     * Uncovers a cell and flood-fills outward through adjacent empty cells.
      * @return true if uncovering was successful
      */
     public boolean uncover(int row, int col) {
-        if (row < 0 || row >= size || col < 0 || col >= size || grid[row][col].isUncovered()) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols || grid[row][col].isUncovered()) {
             return false;
         }
-        visited = new boolean[size][size];
-        uncoverRecursive(row, col);
+        layout.uncover(row * cols + col, index -> cells[index].isUncovered(), index -> cells[index].uncover());
         return true;
     }
 
-    private void uncoverRecursive(int row, int col) {
-        if (row < 0 || row >= size || col < 0 || col >= size || visited[row][col] || grid[row][col].isUncovered()) {
-            return;
-        }
-        grid[row][col].uncover();
-        visited[row][col] = true;
-        if (grid[row][col].getAdjacentMines() == 0 && !grid[row][col].isMine()) {
-            for (int dr = -1; dr <= 1; dr++) {
-                for (int dc = -1; dc <= 1; dc++) {
-                    if (dr != 0 || dc != 0) {
-                        uncoverRecursive(row + dr, col + dc);
-                    }
-                }
-            }
-        }
-    }
-
     public boolean isMine(int row, int col) {
         return grid[row][col].isMine();
     }
@@ -117,11 +84,9 @@ public class Board {
      * Checks if all non-mine cells are uncovered (win condition).
      */
     public boolean allNonMineUncovered() {
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                if (!grid[i][j].isMine() && !grid[i][j].isUncovered()) {
-                    return false;
-                }
+        for (int i = 0; i < rows * cols; i++) {
+            if (!cells[i].isMine() && !cells[i].isUncovered()) {
+                return false;
             }
         }
         return true;
@@ -134,11 +99,11 @@ public class Board {
     public String display(boolean revealMines) {
         StringBuilder sb = new StringBuilder();
         sb.append("   ");
-        for (int c = 0; c < size; c++) sb.append(c + " ");
+        for (int c = 0; c < cols; c++) sb.append(c + " ");
         sb.append("\n");
-        for (int r = 0; r < size; r++) {
+        for (int r = 0; r < rows; r++) {
             sb.append(r + " | ");
-            for (int c = 0; c < size; c++) {
+            for (int c = 0; c < cols; c++) {
                 if (grid[r][c].isUncovered()) {
                     if (grid[r][c].isMine()) sb.append("*");
                     else if (grid[r][c].getAdjacentMines() > 0) sb.append(grid[r][c].getAdjacentMines());
@@ -162,8 +127,27 @@ public class Board {
         return display(false);
     }
 
+    /**
+     * Returns the side length of a square board.
+     * @throws IllegalStateException if the board is not square; use {@link #getRows()} and {@link #getCols()}
+     */
     public int getSize() {
-        return size;
+        if (rows != cols) {
+            throw new IllegalStateException("Board is " + rows + "x" + cols + ", not square");
+        }
+        return rows;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public Topology getTopology() {
+        return layout.getTopology();
     }
 
     // Add getter for grid
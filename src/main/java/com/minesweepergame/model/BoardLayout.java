@@ -0,0 +1,184 @@
+package com.minesweepergame.model;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable mine layout of a board: dimensions, topology, mine positions and adjacent-mine counts.
+ * <p>
+ * A layout holds no per-game state, so one instance can be shared read-only by any number of
+ * concurrent games. A lightweight game tracks its own uncovered cells in a {@link BitSet} of
+ * {@link #stateSize()} bits created by {@link #newState()}; a {@link Board} keeps them on its cells.
+ */
+public class BoardLayout {
+    private final int rows;
+    private final int cols;
+    private final int mineCount;
+    private final Topology topology;
+    private final int[] neighbors;
+    private final int degree;
+    // One entry per cell plus the sentinel, which is never a mine and never has adjacent mines
+    private final boolean[] mines;
+    private final byte[] adjacentMines;
+
+    /**
+     * Constructs a layout with mines placed by the given random source.
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param mineCount Number of mines
+     * @param topology Adjacency rules between cells
+     * @param rand Random source for mine placement
+     */
+    public BoardLayout(int rows, int cols, int mineCount, Topology topology, Random rand) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mineCount = mineCount;
+        this.topology = topology;
+        this.neighbors = topology.neighbors(rows, cols);
+        this.degree = topology.degree();
+        this.mines = new boolean[rows * cols + 1];
+        this.adjacentMines = new byte[rows * cols + 1];
+        calculateAdjacents(placeMines(rand));
+    }
+
+    /**
+     * Constructs a reproducible layout: the same seed always yields the same mines.
+     */
+    public BoardLayout(int rows, int cols, int mineCount, Topology topology, long seed) {
+        this(rows, cols, mineCount, topology, new Random(seed));
+    }
+
+    /**
+     * Randomly places mines on the layout.
+     * @return Indices of the placed mines
+     */
+    private int[] placeMines(Random rand) {
+        int total = rows * cols;
+        int[] placedAt = new int[mineCount];
+        int placed = 0;
+        while (placed < mineCount) {
+            int index = rand.nextInt(total);
+            if (!mines[index]) {
+                mines[index] = true;
+                placedAt[placed++] = index;
+            }
+        }
+        return placedAt;
+    }
+
+    /**
+     * Calculates the number of adjacent mines for each non-mine cell by adding each mine
+     * to its neighbors' counts, which touches only {@code mineCount * degree} entries.
+     */
+    private void calculateAdjacents(int[] placedAt) {
+        for (int mine : placedAt) {
+            int base = mine * degree;
+            for (int k = base; k < base + degree; k++) {
+                adjacentMines[neighbors[k]]++;
+            }
+        }
+        for (int mine : placedAt) {
+            adjacentMines[mine] = 0;
+        }
+        adjacentMines[rows * cols] = 0;
+    }
+
+    /**
+     * Returns the number of bits a per-game uncovered state needs (all cells plus the sentinel).
+     */
+    public int stateSize() {
+        return rows * cols + 1;
+    }
+
+    /**
+     * Creates an empty per-game uncovered state. The sentinel bit is pre-set so flood fill
+     * never walks off the board.
+     */
+    public BitSet newState() {
+        BitSet state = new BitSet(stateSize());
+        state.set(rows * cols);
+        return state;
+    }
+
+    /**
+     * Uncovers a cell in the given per-game state and flood-fills outward through empty cells.
+     * @param uncovered Per-game state from {@link #newState()}; modified in place
+     * @return Number of cells newly uncovered (0 if the cell is off the board or already uncovered)
+     * @throws IllegalArgumentException if the state was not created by {@link #newState()}
+     */
+    public int uncover(BitSet uncovered, int row, int col) {
+        if (!uncovered.get(rows * cols)) {
+            throw new IllegalArgumentException("Uncovered state is missing the sentinel bit; create it with newState()");
+        }
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return 0;
+        }
+        return uncover(row * cols + col, uncovered::get, uncovered::set);
+    }
+
+    /**
+     * Flood fill shared by every kind of per-game state. The caller must report the sentinel
+     * index ({@code rows * cols}) as already uncovered.
+     * @param start Flat index of an on-board cell
+     * @param isUncovered Reads the uncovered flag of a cell
+     * @param uncover Marks a cell uncovered
+     * @return Number of cells newly uncovered
+     */
+    int uncover(int start, IntPredicate isUncovered, IntConsumer uncover) {
+        if (isUncovered.test(start)) {
+            return 0;
+        }
+        uncover.accept(start);
+        if (!isEmpty(start)) {
+            return 1;
+        }
+        int count = 1;
+        int[] stack = new int[rows * cols];
+        int top = 0;
+        stack[top++] = start;
+        while (top > 0) {
+            int base = stack[--top] * degree;
+            for (int k = base; k < base + degree; k++) {
+                int next = neighbors[k];
+                if (!isUncovered.test(next)) {
+                    uncover.accept(next);
+                    count++;
+                    if (isEmpty(next)) {
+                        stack[top++] = next;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean isEmpty(int index) {
+        return adjacentMines[index] == 0 && !mines[index];
+    }
+
+    public boolean isMine(int row, int col) {
+        return mines[row * cols + col];
+    }
+
+    public int getAdjacentMines(int row, int col) {
+        return adjacentMines[row * cols + col];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getMineCount() {
+        return mineCount;
+    }
+
+    public Topology getTopology() {
+        return topology;
+    }
+}
@@ -17,6 +17,15 @@ public class Cell {
         this.adjacentMines = 0;
     }
 
+    /**
+     * Constructs a covered cell with the given mine flag and adjacent mine count.
+     */
+    public Cell(boolean isMine, int adjacentMines) {
+        this.isMine = isMine;
+        this.isUncovered = false;
+        this.adjacentMines = adjacentMines;
+    }
+
     /**
      * Returns true if this cell is a mine.
      */
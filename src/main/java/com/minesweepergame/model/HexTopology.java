@@ -0,0 +1,20 @@
+package com.minesweepergame.model;
+
+/**
+ * Hexagonal topology using an "odd-r" offset layout: odd rows are shifted half a cell
+ * to the right, and each cell touches up to 6 neighbors.
+ */
+public class HexTopology extends OffsetTopology {
+    private static final int[] DR = {-1, -1, 0, 0, 1, 1};
+    private static final int[] DC_EVEN = {-1, 0, -1, 1, -1, 0};
+    private static final int[] DC_ODD = {0, 1, -1, 1, 0, 1};
+
+    public HexTopology() {
+        super(DR, DC_EVEN, DC_ODD);
+    }
+
+    @Override
+    int indexOf(int r, int c, int rows, int cols) {
+        return clip(r, c, rows, cols);
+    }
+}
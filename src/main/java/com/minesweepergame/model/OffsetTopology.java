@@ -0,0 +1,107 @@
+package com.minesweepergame.model;
+
+/**
+ * Base for topologies whose neighbors are fixed row/column offsets from each cell.
+ * <p>
+ * Subclasses supply the offsets (optionally different for odd rows) and how an offset
+ * coordinate maps back onto the board, e.g. clipped at the edges or wrapped around.
+ * Neighbors that map off the board, onto the cell itself, or onto a cell already listed
+ * are padded with the sentinel. The most recently built table is cached, so boards of the
+ * same size created from one topology instance share a single table.
+ */
+abstract class OffsetTopology implements Topology {
+    static final int[] SQUARE_DR = {-1, -1, -1, 0, 0, 1, 1, 1};
+    static final int[] SQUARE_DC = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    private final int[] dr;
+    private final int[] dcEven;
+    private final int[] dcOdd;
+    private volatile CachedTable cached;
+
+    /**
+     * @param dr Row offsets
+     * @param dcEven Column offsets for cells on even rows
+     * @param dcOdd Column offsets for cells on odd rows
+     */
+    OffsetTopology(int[] dr, int[] dcEven, int[] dcOdd) {
+        this.dr = dr;
+        this.dcEven = dcEven;
+        this.dcOdd = dcOdd;
+    }
+
+    /**
+     * Maps a possibly off-board coordinate to a flat cell index.
+     * @return The cell index, or -1 if the coordinate has no cell
+     */
+    abstract int indexOf(int r, int c, int rows, int cols);
+
+    /**
+     * Index mapping for boards with hard edges.
+     */
+    static int clip(int r, int c, int rows, int cols) {
+        return (r >= 0 && r < rows && c >= 0 && c < cols) ? r * cols + c : -1;
+    }
+
+    /**
+     * Index mapping for boards whose edges wrap around.
+     */
+    static int wrap(int r, int c, int rows, int cols) {
+        return Math.floorMod(r, rows) * cols + Math.floorMod(c, cols);
+    }
+
+    @Override
+    public int degree() {
+        return dr.length;
+    }
+
+    @Override
+    public int[] neighbors(int rows, int cols) {
+        CachedTable last = cached;
+        if (last != null && last.rows == rows && last.cols == cols) {
+            return last.table;
+        }
+        int[] table = buildTable(rows, cols);
+        cached = new CachedTable(rows, cols, table);
+        return table;
+    }
+
+    private int[] buildTable(int rows, int cols) {
+        int sentinel = rows * cols;
+        int[] table = new int[sentinel * dr.length];
+        int k = 0;
+        for (int row = 0; row < rows; row++) {
+            int[] dc = (row & 1) == 0 ? dcEven : dcOdd;
+            for (int col = 0; col < cols; col++) {
+                int self = row * cols + col;
+                int start = k;
+                for (int d = 0; d < dr.length; d++) {
+                    int index = indexOf(row + dr[d], col + dc[d], rows, cols);
+                    if (index < 0 || index == self || contains(table, start, k, index)) {
+                        index = sentinel;
+                    }
+                    table[k++] = index;
+                }
+            }
+        }
+        return table;
+    }
+
+    private static boolean contains(int[] table, int from, int to, int value) {
+        for (int j = from; j < to; j++) {
+            if (table[j] == value) return true;
+        }
+        return false;
+    }
+
+    private static final class CachedTable {
+        final int rows;
+        final int cols;
+        final int[] table;
+
+        CachedTable(int rows, int cols, int[] table) {
+            this.rows = rows;
+            this.cols = cols;
+            this.table = table;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.minesweepergame.model;
+
+/**
+ * Classic rectangular topology where each cell touches up to 8 neighbors.
+ */
+public class SquareTopology extends OffsetTopology {
+
+    public SquareTopology() {
+        super(SQUARE_DR, SQUARE_DC, SQUARE_DC);
+    }
+
+    @Override
+    int indexOf(int r, int c, int rows, int cols) {
+        return clip(r, c, rows, cols);
+    }
+}
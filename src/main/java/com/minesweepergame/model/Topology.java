@@ -0,0 +1,26 @@
+package com.minesweepergame.model;
+
+/**
+ * Describes which cells of a board are adjacent to each other.
+ * <p>
+ * A topology supplies a flat neighbor table with a fixed number of entries per cell.
+ * Cells are indexed row-major ({@code row * cols + col}) and the table for cell {@code i}
+ * occupies {@code [i * degree(), (i + 1) * degree())}. Missing neighbors (off the board edge)
+ * are padded with the sentinel index {@code rows * cols}, so board operations can iterate
+ * the table without bounds checks.
+ */
+public interface Topology {
+
+    /**
+     * Returns the number of neighbor slots per cell.
+     */
+    int degree();
+
+    /**
+     * Builds the neighbor table for a board with the given dimensions.
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @return Flat table of length {@code rows * cols * degree()}; may be shared, so callers must not modify it
+     */
+    int[] neighbors(int rows, int cols);
+}
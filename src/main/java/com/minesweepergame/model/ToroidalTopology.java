@@ -0,0 +1,19 @@
+package com.minesweepergame.model;
+
+/**
+ * Square topology whose edges wrap around, so every cell has 8 neighbors.
+ * <p>
+ * On boards narrower than 3 cells the wrapped offsets can land on the same cell twice
+ * (or on the cell itself); such duplicates are padded with the sentinel so no mine is counted twice.
+ */
+public class ToroidalTopology extends OffsetTopology {
+
+    public ToroidalTopology() {
+        super(SQUARE_DR, SQUARE_DC, SQUARE_DC);
+    }
+
+    @Override
+    int indexOf(int r, int c, int rows, int cols) {
+        return wrap(r, c, rows, cols);
+    }
+}
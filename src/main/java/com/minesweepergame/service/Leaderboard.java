@@ -0,0 +1,76 @@
+package com.minesweepergame.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ranking of completed tournament games, safe to record into and query from many threads.
+ * <p>
+ * Entries are kept sorted in a lock-free skip list, so top-K queries only walk the first K entries.
+ * A {@link ConcurrentHashMap} indexes entries by player; it locks only the affected bin on insert,
+ * and readers never block. Each player is recorded at most once; later results for the same
+ * player are ignored.
+ * <p>
+ * A new entry is claimed in the player index before it is inserted into the ranking, so for a
+ * brief window {@link #size()} and {@link #rankOf(String)} may already count it while
+ * {@link #top(int)} does not show it yet. A rejected duplicate never reaches the ranking.
+ */
+public class Leaderboard {
+    private final ConcurrentSkipListSet<LeaderboardEntry> ranking = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<String, LeaderboardEntry> byPlayer = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Records a completed game.
+     * @param safeCellsRevealed Number of non-mine cells the player uncovered
+     * @return true if recorded, false if the player already has an entry
+     */
+    public boolean record(String playerId, boolean win, int moves, int safeCellsRevealed, long elapsedNanos) {
+        LeaderboardEntry entry = new LeaderboardEntry(playerId, win, moves, safeCellsRevealed, elapsedNanos,
+                sequence.getAndIncrement());
+        if (byPlayer.putIfAbsent(playerId, entry) != null) {
+            return false;
+        }
+        ranking.add(entry);
+        return true;
+    }
+
+    /**
+     * Returns up to k best entries, best first.
+     */
+    public List<LeaderboardEntry> top(int k) {
+        List<LeaderboardEntry> result = new ArrayList<>(Math.max(0, Math.min(k, 64)));
+        Iterator<LeaderboardEntry> it = ranking.iterator();
+        while (result.size() < k && it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the 1-based rank of a player, or -1 if they have no entry.
+     * <p>
+     * The skip list keeps no subtree counts, so this walks every entry ranked ahead of the
+     * player and costs O(rank). Counts cannot be maintained without locking around inserts,
+     * which would serialize every game completion; the trade-off favours the write path,
+     * since ranks are typically queried far less often than games finish.
+     */
+    public int rankOf(String playerId) {
+        LeaderboardEntry entry = byPlayer.get(playerId);
+        if (entry == null) {
+            return -1;
+        }
+        return ranking.headSet(entry).size() + 1;
+    }
+
+    /**
+     * Returns the number of recorded games (players in the index).
+     */
+    public int size() {
+        return byPlayer.size();
+    }
+}
@@ -0,0 +1,61 @@
+package com.minesweepergame.service;
+
+import java.time.Duration;
+
+/**
+ * A completed tournament game as recorded on the {@link Leaderboard}.
+ */
+public final class LeaderboardEntry implements Comparable<LeaderboardEntry> {
+    private final String playerId;
+    private final boolean win;
+    private final int moves;
+    private final int safeCellsRevealed;
+    private final long elapsedNanos;
+    // Completion order; breaks ties so distinct players never compare equal
+    private final long sequence;
+
+    LeaderboardEntry(String playerId, boolean win, int moves, int safeCellsRevealed, long elapsedNanos, long sequence) {
+        this.playerId = playerId;
+        this.win = win;
+        this.moves = moves;
+        this.safeCellsRevealed = safeCellsRevealed;
+        this.elapsedNanos = elapsedNanos;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Orders wins before losses. Wins rank by fewer moves; losses rank by more safe cells
+     * revealed (progress before hitting a mine), then fewer moves. Remaining ties go to the
+     * shorter time, then the earlier completion.
+     */
+    @Override
+    public int compareTo(LeaderboardEntry other) {
+        if (win != other.win) return win ? -1 : 1;
+        if (!win && safeCellsRevealed != other.safeCellsRevealed) {
+            return Integer.compare(other.safeCellsRevealed, safeCellsRevealed);
+        }
+        if (moves != other.moves) return Integer.compare(moves, other.moves);
+        if (elapsedNanos != other.elapsedNanos) return Long.compare(elapsedNanos, other.elapsedNanos);
+        return Long.compare(sequence, other.sequence);
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public boolean isWin() {
+        return win;
+    }
+
+    public int getMoves() {
+        return moves;
+    }
+
+    public int getSafeCellsRevealed() {
+        return safeCellsRevealed;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+}
@@ -0,0 +1,103 @@
+package com.minesweepergame.service;
+
+import com.minesweepergame.model.BoardLayout;
+import java.util.BitSet;
+
+/**
+ * One player's game on a shared tournament layout.
+ * <p>
+ * The layout is shared read-only; this game only owns a bitset of uncovered cells.
+ * A single player game is not thread-safe and should be driven by one thread at a time.
+ */
+public class PlayerGame {
+    private final String playerId;
+    private final BoardLayout layout;
+    private final Leaderboard leaderboard;
+    private final BitSet uncovered;
+    private final long startNanos;
+    private final int safeCells;
+    private int safeCellsRevealed = 0;
+    private int moves = 0;
+    private boolean gameOver = false;
+    private boolean win = false;
+
+    PlayerGame(String playerId, BoardLayout layout, Leaderboard leaderboard) {
+        this.playerId = playerId;
+        this.layout = layout;
+        this.leaderboard = leaderboard;
+        this.uncovered = layout.newState();
+        this.safeCells = layout.getRows() * layout.getCols() - layout.getMineCount();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Uncovers a cell and updates game state; the result is recorded on the leaderboard
+     * when the game ends. Off-board coordinates are ignored and do not count as a move.
+     */
+    public void uncover(int row, int col) {
+        if (gameOver || !isOnBoard(row, col) || isUncovered(row, col)) return;
+        moves++;
+        int revealed = layout.uncover(uncovered, row, col);
+        if (layout.isMine(row, col)) {
+            gameOver = true;
+            win = false;
+        } else {
+            safeCellsRevealed += revealed;
+            if (safeCellsRevealed == safeCells) {
+                gameOver = true;
+                win = true;
+            }
+        }
+        if (gameOver) {
+            leaderboard.record(playerId, win, moves, safeCellsRevealed, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Returns true if the coordinate lies on the board.
+     */
+    public boolean isOnBoard(int row, int col) {
+        return row >= 0 && row < layout.getRows() && col >= 0 && col < layout.getCols();
+    }
+
+    /**
+     * Returns true if the cell is uncovered.
+     * @throws IllegalArgumentException if the coordinate is off the board
+     */
+    public boolean isUncovered(int row, int col) {
+        if (!isOnBoard(row, col)) {
+            throw new IllegalArgumentException("Cell (" + row + ", " + col + ") is off the board");
+        }
+        return uncovered.get(row * layout.getCols() + col);
+    }
+
+    /**
+     * Returns true if the game is over.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns true if the player has won.
+     */
+    public boolean isWin() {
+        return win;
+    }
+
+    public int getMoves() {
+        return moves;
+    }
+
+    public int getSafeCellsRevealed() {
+        return safeCellsRevealed;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public BoardLayout getLayout() {
+        return layout;
+    }
+}
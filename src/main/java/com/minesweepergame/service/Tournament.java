@@ -0,0 +1,42 @@
+package com.minesweepergame.service;
+
+import com.minesweepergame.model.BoardLayout;
+import com.minesweepergame.model.Topology;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tournament where every player plays the same seeded board and results feed a shared leaderboard.
+ * Players may join and play concurrently; each player ID may join only once.
+ */
+public class Tournament {
+    private final BoardLayout layout;
+    private final Leaderboard leaderboard = new Leaderboard();
+    private final Set<String> joined = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a tournament on a layout generated from the given seed.
+     */
+    public Tournament(int rows, int cols, int mineCount, Topology topology, long seed) {
+        this.layout = new BoardLayout(rows, cols, mineCount, topology, seed);
+    }
+
+    /**
+     * Starts a new game for the given player on the shared layout.
+     * @throws IllegalArgumentException if the player has already joined this tournament
+     */
+    public PlayerGame join(String playerId) {
+        if (!joined.add(playerId)) {
+            throw new IllegalArgumentException("Player " + playerId + " has already joined");
+        }
+        return new PlayerGame(playerId, layout, leaderboard);
+    }
+
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+}
@@ -0,0 +1,72 @@
+package com.minesweepergame.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardLayoutTest {
+    @Test
+    void testSameSeedGivesSameLayout() {
+        BoardLayout a = new BoardLayout(5, 7, 8, new SquareTopology(), 42L);
+        BoardLayout b = new BoardLayout(5, 7, 8, new SquareTopology(), 42L);
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 7; j++) {
+                assertEquals(a.isMine(i, j), b.isMine(i, j));
+                assertEquals(a.getAdjacentMines(i, j), b.getAdjacentMines(i, j));
+            }
+        }
+    }
+
+    @Test
+    void testUncoverTracksStatePerGame() {
+        BoardLayout layout = new BoardLayout(4, 4, 0, new SquareTopology(), 1L);
+        BitSet first = layout.newState();
+        BitSet second = layout.newState();
+        assertEquals(16, layout.uncover(first, 0, 0));
+        assertEquals(0, layout.uncover(first, 3, 3));
+        assertEquals(0, second.nextClearBit(0));
+        assertEquals(16, layout.uncover(second, 2, 1));
+    }
+
+    @Test
+    void testUncoverRejectsForeignState() {
+        BoardLayout layout = new BoardLayout(4, 4, 0, new SquareTopology(), 1L);
+        assertThrows(IllegalArgumentException.class, () -> layout.uncover(new BitSet(), 0, 0));
+    }
+
+    @Test
+    void testBoardFromLayoutMatchesLayout() {
+        BoardLayout layout = new BoardLayout(3, 4, 3, new HexTopology(), 7L);
+        Board board = new Board(layout);
+        Cell[][] grid = board.getGrid();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 4; j++) {
+                assertEquals(layout.isMine(i, j), grid[i][j].isMine());
+                if (!layout.isMine(i, j)) {
+                    assertEquals(layout.getAdjacentMines(i, j), grid[i][j].getAdjacentMines());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testBoardAndBitSetStateUncoverTheSameCells() {
+        BoardLayout layout = new BoardLayout(6, 6, 5, new SquareTopology(), 13L);
+        Board board = new Board(layout);
+        BitSet state = layout.newState();
+        int row = 0, col = 0;
+        while (layout.isMine(row, col) || layout.getAdjacentMines(row, col) != 0) {
+            col++;
+            if (col == 6) { col = 0; row++; }
+        }
+        board.uncover(row, col);
+        layout.uncover(state, row, col);
+        for (int i = 0; i < 6; i++) {
+            for (int j = 0; j < 6; j++) {
+                assertEquals(state.get(i * 6 + j), board.isUncovered(i, j));
+            }
+        }
+    }
+}
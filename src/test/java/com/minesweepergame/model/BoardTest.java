@@ -72,4 +72,42 @@ class BoardTest {
         // Accept either covered cells or mines in the initial display
         assertTrue(display.contains("."));
     }
+
+    @Test
+    void testRectangularBoardMineCount() {
+        Board board = new Board(2, 5, 3, new SquareTopology());
+        int mineCount = 0;
+        Cell[][] grid = board.getGrid();
+        for (int i = 0; i < board.getRows(); i++) {
+            for (int j = 0; j < board.getCols(); j++) {
+                if (grid[i][j].isMine()) mineCount++;
+            }
+        }
+        assertEquals(2, board.getRows());
+        assertEquals(5, board.getCols());
+        assertEquals(3, mineCount);
+        assertThrows(IllegalStateException.class, board::getSize);
+    }
+
+    @Test
+    void testToroidalBoardEveryCellSeesTheOnlyMine() {
+        // On a wrapped 3x3 board every cell is adjacent to every other cell
+        Board board = new Board(3, 3, 1, new ToroidalTopology());
+        Cell[][] grid = board.getGrid();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                if (!grid[i][j].isMine()) {
+                    assertEquals(1, grid[i][j].getAdjacentMines());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFloodFillUncoversWholeMineFreeBoard() {
+        Board board = new Board(6, 9, 0, new HexTopology());
+        assertTrue(board.uncover(5, 8));
+        assertTrue(board.allNonMineUncovered());
+        assertFalse(board.uncover(0, 0));
+    }
 }
@@ -0,0 +1,52 @@
+package com.minesweepergame.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopologyTest {
+    private static int realNeighbors(Topology topology, int[] table, int sentinel, int index) {
+        int count = 0;
+        for (int k = index * topology.degree(); k < (index + 1) * topology.degree(); k++) {
+            if (table[k] != sentinel) count++;
+        }
+        return count;
+    }
+
+    @Test
+    void testSquareCornerEdgeAndInterior() {
+        Topology topology = new SquareTopology();
+        int[] table = topology.neighbors(3, 4);
+        assertEquals(12 * 8, table.length);
+        assertEquals(3, realNeighbors(topology, table, 12, 0));
+        assertEquals(5, realNeighbors(topology, table, 12, 1));
+        assertEquals(8, realNeighbors(topology, table, 12, 5));
+    }
+
+    @Test
+    void testToroidalHasNoBorders() {
+        Topology topology = new ToroidalTopology();
+        int[] table = topology.neighbors(4, 4);
+        for (int i = 0; i < 16; i++) {
+            assertEquals(8, realNeighbors(topology, table, 16, i));
+        }
+    }
+
+    @Test
+    void testToroidalSmallBoardSkipsDuplicates() {
+        Topology topology = new ToroidalTopology();
+        int[] table = topology.neighbors(2, 2);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(3, realNeighbors(topology, table, 4, i));
+        }
+    }
+
+    @Test
+    void testHexInteriorHasSixNeighbors() {
+        Topology topology = new HexTopology();
+        int[] table = topology.neighbors(4, 4);
+        assertEquals(6, realNeighbors(topology, table, 16, 1 * 4 + 1));
+        assertEquals(6, realNeighbors(topology, table, 16, 2 * 4 + 1));
+        assertEquals(2, realNeighbors(topology, table, 16, 0));
+    }
+}
@@ -0,0 +1,78 @@
+package com.minesweepergame.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+    @Test
+    void testRankingOrder() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.record("early-loss", false, 1, 0, 10);
+        leaderboard.record("late-loss", false, 6, 20, 500);
+        leaderboard.record("slow", true, 5, 24, 900);
+        leaderboard.record("fast", true, 5, 24, 100);
+        leaderboard.record("fewest", true, 3, 24, 1000);
+        List<LeaderboardEntry> top = leaderboard.top(3);
+        assertEquals(3, top.size());
+        assertEquals("fewest", top.get(0).getPlayerId());
+        assertEquals("fast", top.get(1).getPlayerId());
+        assertEquals("slow", top.get(2).getPlayerId());
+        // Losses rank by progress, so the later loss beats the first-move loss despite more moves
+        assertEquals(4, leaderboard.rankOf("late-loss"));
+        assertEquals(5, leaderboard.rankOf("early-loss"));
+        assertEquals(-1, leaderboard.rankOf("nobody"));
+    }
+
+    @Test
+    void testPlayerRecordedOnce() {
+        Leaderboard leaderboard = new Leaderboard();
+        assertTrue(leaderboard.record("p", true, 4, 10, 10));
+        assertFalse(leaderboard.record("p", true, 1, 10, 1));
+        assertEquals(1, leaderboard.size());
+        assertEquals(4, leaderboard.top(10).get(0).getMoves());
+    }
+
+    @Test
+    void testTiedResultsKeepDistinctEntries() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.record("a", true, 2, 8, 50);
+        leaderboard.record("b", true, 2, 8, 50);
+        assertEquals(2, leaderboard.top(5).size());
+        assertEquals(1, leaderboard.rankOf("a"));
+        assertEquals(2, leaderboard.rankOf("b"));
+    }
+
+    @Test
+    void testConcurrentDuplicatesRecordedOnce() throws Exception {
+        Leaderboard leaderboard = new Leaderboard();
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int moves = t + 1;
+            futures.add(pool.submit(() -> {
+                start.await();
+                return leaderboard.record("same", true, moves, 10, moves);
+            }));
+        }
+        start.countDown();
+        int accepted = 0;
+        for (Future<Boolean> f : futures) {
+            if (f.get()) accepted++;
+        }
+        pool.shutdown();
+        assertEquals(1, accepted);
+        assertEquals(1, leaderboard.size());
+        assertEquals(1, leaderboard.top(threads).size());
+        assertEquals(1, leaderboard.rankOf("same"));
+    }
+}
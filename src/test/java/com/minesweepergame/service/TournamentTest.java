@@ -0,0 +1,105 @@
+package com.minesweepergame.service;
+
+import com.minesweepergame.model.BoardLayout;
+import com.minesweepergame.model.SquareTopology;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+    private static void playToWin(PlayerGame game) {
+        BoardLayout layout = game.getLayout();
+        for (int i = 0; i < layout.getRows(); i++) {
+            for (int j = 0; j < layout.getCols(); j++) {
+                if (!layout.isMine(i, j)) {
+                    game.uncover(i, j);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testWinIsRecorded() {
+        Tournament tournament = new Tournament(5, 5, 4, new SquareTopology(), 3L);
+        PlayerGame game = tournament.join("alice");
+        playToWin(game);
+        assertTrue(game.isGameOver());
+        assertTrue(game.isWin());
+        assertEquals(1, tournament.getLeaderboard().rankOf("alice"));
+        assertEquals(game.getMoves(), tournament.getLeaderboard().top(1).get(0).getMoves());
+    }
+
+    @Test
+    void testLossIsRecordedAndEndsGame() {
+        Tournament tournament = new Tournament(4, 4, 3, new SquareTopology(), 9L);
+        PlayerGame game = tournament.join("bob");
+        BoardLayout layout = tournament.getLayout();
+        for (int i = 0; i < layout.getRows(); i++) {
+            for (int j = 0; j < layout.getCols(); j++) {
+                if (layout.isMine(i, j)) {
+                    game.uncover(i, j);
+                    assertTrue(game.isGameOver());
+                    assertFalse(game.isWin());
+                    assertFalse(tournament.getLeaderboard().top(1).get(0).isWin());
+                    return;
+                }
+            }
+        }
+        fail("layout has no mines");
+    }
+
+    @Test
+    void testOffBoardMovesAreIgnored() {
+        Tournament tournament = new Tournament(4, 4, 3, new SquareTopology(), 2L);
+        PlayerGame game = tournament.join("carol");
+        game.uncover(0, 4);
+        game.uncover(4, 0);
+        game.uncover(-1, 0);
+        game.uncover(0, -1);
+        assertFalse(game.isGameOver());
+        assertEquals(0, game.getMoves());
+        assertEquals(-1, tournament.getLeaderboard().rankOf("carol"));
+        assertThrows(IllegalArgumentException.class, () -> game.isUncovered(0, 4));
+    }
+
+    @Test
+    void testPlayerCannotJoinTwice() {
+        Tournament tournament = new Tournament(4, 4, 3, new SquareTopology(), 2L);
+        tournament.join("dave");
+        assertThrows(IllegalArgumentException.class, () -> tournament.join("dave"));
+    }
+
+    @Test
+    void testPlayersHaveIndependentState() {
+        Tournament tournament = new Tournament(4, 4, 3, new SquareTopology(), 11L);
+        PlayerGame first = tournament.join("p1");
+        PlayerGame second = tournament.join("p2");
+        playToWin(first);
+        assertFalse(second.isGameOver());
+        assertEquals(0, second.getMoves());
+    }
+
+    @Test
+    void testConcurrentPlayersAllRanked() throws Exception {
+        Tournament tournament = new Tournament(8, 8, 10, new SquareTopology(), 5L);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < 500; p++) {
+            String playerId = "player-" + p;
+            futures.add(pool.submit(() -> playToWin(tournament.join(playerId))));
+        }
+        for (Future<?> f : futures) f.get();
+        pool.shutdown();
+        Leaderboard leaderboard = tournament.getLeaderboard();
+        assertEquals(500, leaderboard.size());
+        assertEquals(10, leaderboard.top(10).size());
+        int rank = leaderboard.rankOf("player-42");
+        assertTrue(rank >= 1 && rank <= 500);
+    }
+}